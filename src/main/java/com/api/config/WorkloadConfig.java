@@ -0,0 +1,92 @@
+package com.api.config;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+public class WorkloadConfig {
+
+    private static final Properties props = new Properties();
+
+    static {
+        try (InputStream input = new FileInputStream("src/test/resources/workload.properties")) {
+            props.load(input);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load workload.properties", e);
+        }
+    }
+
+    public static int getThreads() {
+        return getInt("workload.threads", 1);
+    }
+
+    public static int getOperationsPerThread() {
+        return getInt("workload.operations.per.thread", 100);
+    }
+
+    public static Long getSeed() {
+        String seed = get("workload.seed", "");
+        if (seed.isEmpty()) return null;
+        try {
+            return Long.parseLong(seed);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("workload.seed must be a whole number, got '" + seed + "'", e);
+        }
+    }
+
+    public static int getOperationWeight(String operationKey) {
+        return getInt("workload.weight." + operationKey, 0);
+    }
+
+    public static String getIdDistribution() {
+        return get("workload.ids.distribution", "zipf");
+    }
+
+    public static double getZipfExponent() {
+        return getDouble("workload.ids.zipf.exponent", 1.0);
+    }
+
+    public static int getHotSetSize() {
+        return getInt("workload.ids.hot.set.size", 0);
+    }
+
+    public static int getThinkTimeMinMs() {
+        return getInt("workload.think.time.min.ms", 0);
+    }
+
+    public static int getThinkTimeMaxMs() {
+        return getInt("workload.think.time.max.ms", 0);
+    }
+
+    public static int getPayloadWeight(String sizeKey) {
+        return getInt("workload.payload.weight." + sizeKey, 0);
+    }
+
+    public static double getMaxErrorRate() {
+        return getDouble("workload.max.error.rate", 0.0);
+    }
+
+    // System properties take precedence so a scenario can be tuned from the command line
+    private static String get(String key, String defaultValue) {
+        return System.getProperty(key, props.getProperty(key, defaultValue)).trim();
+    }
+
+    private static int getInt(String key, int defaultValue) {
+        String value = get(key, String.valueOf(defaultValue));
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(key + " must be a whole number, got '" + value + "'", e);
+        }
+    }
+
+    private static double getDouble(String key, double defaultValue) {
+        String value = get(key, String.valueOf(defaultValue));
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(key + " must be a number, got '" + value + "'", e);
+        }
+    }
+}
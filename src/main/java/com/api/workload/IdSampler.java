@@ -0,0 +1,73 @@
+package com.api.workload;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Picks book ids according to a popularity distribution.
+ * Ids are ranked by their position in the list: the first id is the hottest one.
+ */
+public class IdSampler {
+
+    private final List<Integer> ids;
+    private final double[] cdf;
+
+    private IdSampler(List<Integer> ids, double[] cdf) {
+        this.ids = List.copyOf(ids);
+        this.cdf = cdf;
+    }
+
+    public static IdSampler uniform(List<Integer> ids) {
+        requireIds(ids);
+        return new IdSampler(ids, null);
+    }
+
+    public static IdSampler zipf(List<Integer> ids, double exponent) {
+        requireIds(ids);
+        double[] cdf = new double[ids.size()];
+        double sum = 0;
+        for (int rank = 1; rank <= ids.size(); rank++) {
+            sum += 1.0 / Math.pow(rank, exponent);
+            cdf[rank - 1] = sum;
+        }
+        for (int i = 0; i < cdf.length; i++) {
+            cdf[i] /= sum;
+        }
+        return new IdSampler(ids, cdf);
+    }
+
+    public static IdSampler forDistribution(String distribution, List<Integer> ids, double zipfExponent) {
+        return switch (distribution.toLowerCase()) {
+            case "uniform" -> uniform(ids);
+            case "zipf" -> zipf(ids, zipfExponent);
+            default -> throw new IllegalArgumentException("Unknown id distribution: " + distribution);
+        };
+    }
+
+    public int next(Random random) {
+        if (cdf == null) {
+            return ids.get(random.nextInt(ids.size()));
+        }
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        index = index >= 0 ? index : -index - 1;
+        return ids.get(Math.min(index, ids.size() - 1));
+    }
+
+    // Share of draws expected to land on the N hottest ids
+    public double getTopShare(int topN) {
+        int n = Math.min(topN, ids.size());
+        if (n <= 0) return 0.0;
+        return cdf == null ? (double) n / ids.size() : cdf[n - 1];
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    private static void requireIds(List<Integer> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("Id pool must not be empty");
+        }
+    }
+}
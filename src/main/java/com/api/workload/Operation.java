@@ -0,0 +1,18 @@
+package com.api.workload;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum Operation {
+
+    GET_BY_ID("get.by.id"),
+    GET_ALL("get.all"),
+    CREATE("create"),
+    UPDATE("update"),
+    DELETE("delete");
+
+    // Suffix of the weight key in workload.properties
+    private final String key;
+}
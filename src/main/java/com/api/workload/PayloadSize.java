@@ -0,0 +1,18 @@
+package com.api.workload;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PayloadSize {
+
+    SMALL("small", 0),
+    MEDIUM("medium", 512),
+    LARGE("large", 4096);
+
+    // Suffix of the weight key in workload.properties
+    private final String key;
+    // Extra characters appended to the book name to inflate the request body
+    private final int padding;
+}
@@ -0,0 +1,116 @@
+package com.api.workload;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+public class ScenarioResult {
+
+    private final Map<Operation, LongAdder> counts = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> failures = new EnumMap<>(Operation.class);
+    private final Map<Operation, List<Long>> latencies = new EnumMap<>(Operation.class);
+    private final Map<Integer, LongAdder> idHits = new ConcurrentHashMap<>();
+    private final LongAdder skipped = new LongAdder();
+
+    public ScenarioResult() {
+        for (Operation operation : Operation.values()) {
+            counts.put(operation, new LongAdder());
+            failures.put(operation, new LongAdder());
+            latencies.put(operation, Collections.synchronizedList(new ArrayList<>()));
+        }
+    }
+
+    public void record(Operation operation, int statusCode, long latencyNanos) {
+        counts.get(operation).increment();
+        if (statusCode < 200 || statusCode >= 300) {
+            failures.get(operation).increment();
+        }
+        latencies.get(operation).add(latencyNanos);
+    }
+
+    public void recordIdHit(int id) {
+        idHits.computeIfAbsent(id, k -> new LongAdder()).increment();
+    }
+
+    public void recordSkipped() {
+        skipped.increment();
+    }
+
+    public long getTotal() {
+        return counts.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public long getFailures() {
+        return failures.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public double getErrorRate() {
+        long total = getTotal();
+        return total == 0 ? 0.0 : (double) getFailures() / total;
+    }
+
+    public long getCount(Operation operation) {
+        return counts.get(operation).sum();
+    }
+
+    public long getSkipped() {
+        return skipped.sum();
+    }
+
+    // Nearest-rank percentile, in nanoseconds
+    public long getLatencyPercentile(Operation operation, double percentile) {
+        List<Long> sorted;
+        synchronized (latencies.get(operation)) {
+            sorted = new ArrayList<>(latencies.get(operation));
+        }
+        if (sorted.isEmpty()) return 0;
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0));
+    }
+
+    // Share of by-id reads that landed on the N most requested ids
+    public double getTopIdShare(int topN) {
+        List<Long> hits = idHits.values().stream()
+                .map(LongAdder::sum)
+                .sorted(Collections.reverseOrder())
+                .collect(Collectors.toList());
+        long total = hits.stream().mapToLong(Long::longValue).sum();
+        if (total == 0) return 0.0;
+        long top = hits.stream().limit(topN).mapToLong(Long::longValue).sum();
+        return (double) top / total;
+    }
+
+    public Map<String, Object> summary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("total", getTotal());
+        summary.put("failures", getFailures());
+        summary.put("errorRate", getErrorRate());
+        summary.put("skipped", getSkipped());
+        summary.put("distinctIdsRead", idHits.size());
+        summary.put("top10IdShare", getTopIdShare(10));
+
+        Map<String, Object> operations = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("count", getCount(operation));
+            stats.put("failures", failures.get(operation).sum());
+            stats.put("p50Ms", toMillis(getLatencyPercentile(operation, 50)));
+            stats.put("p95Ms", toMillis(getLatencyPercentile(operation, 95)));
+            stats.put("p99Ms", toMillis(getLatencyPercentile(operation, 99)));
+            operations.put(operation.name(), stats);
+        }
+        summary.put("operations", operations);
+        return summary;
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
@@ -0,0 +1,241 @@
+package com.api.workload;
+
+import com.api.models.Book;
+import com.api.utils.ApiUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Executes a {@link WorkloadScenario} against the Books API through a {@link WorkloadClient}.
+ * Reads and updates target existing books picked by popularity, deletes only remove
+ * books created by the scenario itself. Once the run ends, leftover books are removed
+ * and every updated hot book is restored from the snapshot taken before the run.
+ * A runner holds the state of a single run and can only be run once.
+ */
+@Slf4j
+public class ScenarioRunner {
+
+    private static final String[] TITLES = {
+            "The Art of Software Testing",
+            "Effective Java",
+            "Spring in Action",
+            "Microservices Patterns",
+            "Building Microservices"
+    };
+    private static final String[] AUTHORS = {
+            "Glenford Myers",
+            "Joshua Bloch",
+            "Craig Walls",
+            "Chris Richardson",
+            "Sam Newman"
+    };
+
+    private final WorkloadScenario scenario;
+    private final WeightedPicker<Operation> operationPicker;
+    private final WeightedPicker<PayloadSize> payloadPicker;
+    private final WorkloadClient client = new WorkloadClient();
+    private final Queue<Integer> createdIds = new ConcurrentLinkedQueue<>();
+    private final Map<Integer, Book> hotSetSnapshot = new LinkedHashMap<>();
+    private final Set<Integer> updatedIds = ConcurrentHashMap.newKeySet();
+    private final ScenarioResult result = new ScenarioResult();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile IdSampler idSampler;
+
+    public ScenarioRunner(WorkloadScenario scenario) {
+        scenario.validate();
+        this.scenario = scenario;
+        this.operationPicker = new WeightedPicker<>(scenario.getOperationWeights());
+        this.payloadPicker = new WeightedPicker<>(scenario.getPayloadWeights());
+    }
+
+    public ScenarioResult run() {
+        if (!started.compareAndSet(false, true)) {
+            throw new IllegalStateException("ScenarioRunner can only be run once, create a new one per run");
+        }
+        IdSampler idSampler = IdSampler.forDistribution(
+                scenario.getIdDistribution(), loadHotSet(), scenario.getZipfExponent());
+        this.idSampler = idSampler;
+        log.info("Running workload: {} threads x {} operations, {} ids ({})",
+                scenario.getThreads(), scenario.getOperationsPerThread(),
+                idSampler.size(), scenario.getIdDistribution());
+
+        ExecutorService executor = Executors.newFixedThreadPool(scenario.getThreads());
+        RuntimeException failure = null;
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int worker = 0; worker < scenario.getThreads(); worker++) {
+                Random random = scenario.getSeed() != null ? new Random(scenario.getSeed() + worker) : new Random();
+                workers.add(executor.submit(() -> runWorker(idSampler, random)));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure = new RuntimeException("Workload run was interrupted", e);
+        } catch (ExecutionException e) {
+            failure = new RuntimeException("Workload worker failed", e.getCause());
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+
+        executor.shutdownNow();
+        awaitWorkers(executor);
+        List<RuntimeException> cleanupErrors = cleanup();
+        if (failure == null && !cleanupErrors.isEmpty()) {
+            failure = new RuntimeException("Workload cleanup failed for " + cleanupErrors.size() + " book(s)");
+        }
+        if (failure != null) {
+            cleanupErrors.forEach(failure::addSuppressed);
+            throw failure;
+        }
+
+        log.info("Workload finished: {}", result.summary());
+        return result;
+    }
+
+    // Share of by-id reads the id distribution predicts for the N hottest ids of this run
+    public double getExpectedTopIdShare(int topN) {
+        if (idSampler == null) {
+            throw new IllegalStateException("The hot id set is only known once run() has started");
+        }
+        return idSampler.getTopShare(topN);
+    }
+
+    // Shuffled so the popularity ranking follows workload.seed rather than the API's listing order.
+    // Keeps a copy of every hot book so that cleanup() can undo the scenario's updates.
+    private List<Integer> loadHotSet() {
+        List<Book> books = new ArrayList<>(ApiUtils.getBooksList());
+        if (books.isEmpty()) {
+            throw new IllegalStateException("No books available to build the hot id set");
+        }
+        Collections.shuffle(books, scenario.getSeed() != null ? new Random(scenario.getSeed()) : new Random());
+        int hotSetSize = scenario.getHotSetSize();
+        if (hotSetSize > 0 && hotSetSize < books.size()) {
+            books = books.subList(0, hotSetSize);
+        }
+        books.forEach(book -> hotSetSnapshot.put(book.getId(), book));
+        return new ArrayList<>(hotSetSnapshot.keySet());
+    }
+
+    private void runWorker(IdSampler idSampler, Random random) {
+        for (int i = 0; i < scenario.getOperationsPerThread(); i++) {
+            execute(operationPicker.next(random), idSampler, random);
+            thinkTime(random);
+        }
+    }
+
+    private void execute(Operation operation, IdSampler idSampler, Random random) {
+        WorkloadClient.TimedResponse exchange;
+        switch (operation) {
+            case GET_BY_ID -> {
+                int id = idSampler.next(random);
+                result.recordIdHit(id);
+                exchange = client.getBookById(id);
+            }
+            case GET_ALL -> exchange = client.getAllBooks();
+            case CREATE -> {
+                exchange = client.createBook(generatePayload(random));
+                int status = exchange.getResponse().getStatusCode();
+                if (status == 200 || status == 201) {
+                    createdIds.add(exchange.getResponse().as(Book.class).getId());
+                }
+            }
+            case UPDATE -> {
+                int id = idSampler.next(random);
+                updatedIds.add(id);
+                exchange = client.updateBook(id, generatePayload(random));
+            }
+            case DELETE -> {
+                Integer id = createdIds.poll();
+                if (id == null) {
+                    result.recordSkipped();
+                    return;
+                }
+                exchange = client.deleteBook(id);
+            }
+            default -> throw new IllegalArgumentException("Unsupported operation: " + operation);
+        }
+        result.record(operation, exchange.getResponse().getStatusCode(), exchange.getLatencyNanos());
+    }
+
+    // Built from the worker's own Random: ApiUtils.generateRandomBook() is an Allure step
+    private Book generatePayload(Random random) {
+        int index = random.nextInt(TITLES.length);
+        String name = TITLES[index];
+        PayloadSize size = payloadPicker.next(random);
+        if (size.getPadding() > 0) {
+            name += " " + "x".repeat(size.getPadding());
+        }
+        int pages = 200 + random.nextInt(500);
+        double price = 20.0 + random.nextDouble() * 50.0;
+        return new Book(name, AUTHORS[index], "Workload", "Programming", pages, Math.round(price * 100.0) / 100.0);
+    }
+
+    private void thinkTime(Random random) {
+        int min = scenario.getThinkTimeMinMs();
+        int max = scenario.getThinkTimeMaxMs();
+        if (max == 0) return;
+        try {
+            Thread.sleep(min + random.nextInt(max - min + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Think time was interrupted", e);
+        }
+    }
+
+    // Cleanup must not race with workers that are still writing after a failure
+    private void awaitWorkers(ExecutorService executor) {
+        try {
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                log.warn("Workload workers did not stop within a minute, cleanup may be incomplete");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Every call is attempted even if an earlier one fails, so as much shared data as possible is restored
+    private List<RuntimeException> cleanup() {
+        List<RuntimeException> errors = new ArrayList<>();
+        Integer id;
+        while ((id = createdIds.poll()) != null) {
+            int createdId = id;
+            cleanupCall("delete created book", createdId, () -> client.deleteBook(createdId), errors);
+        }
+        for (Integer updatedId : updatedIds) {
+            cleanupCall("restore book", updatedId, () -> client.updateBook(updatedId, hotSetSnapshot.get(updatedId)), errors);
+        }
+        return errors;
+    }
+
+    private void cleanupCall(String action, int bookId, Supplier<WorkloadClient.TimedResponse> call,
+                             List<RuntimeException> errors) {
+        try {
+            int status = call.get().getResponse().getStatusCode();
+            if (status < 200 || status >= 300) {
+                log.warn("Failed to {} {} after workload, status {}", action, bookId, status);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to {} {} after workload: {}", action, bookId, e.getMessage());
+            errors.add(e);
+        }
+    }
+}
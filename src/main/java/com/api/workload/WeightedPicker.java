@@ -0,0 +1,39 @@
+package com.api.workload;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class WeightedPicker<T> {
+
+    private final List<T> items = new ArrayList<>();
+    private final long[] cumulative;
+    private final long total;
+
+    public WeightedPicker(Map<T, Integer> weights) {
+        long[] sums = new long[weights.size()];
+        long sum = 0;
+        for (Map.Entry<T, Integer> entry : weights.entrySet()) {
+            if (entry.getValue() < 0) {
+                throw new IllegalArgumentException("Negative weight for " + entry.getKey());
+            }
+            if (entry.getValue() == 0) continue;
+            sum += entry.getValue();
+            sums[items.size()] = sum;
+            items.add(entry.getKey());
+        }
+        if (items.isEmpty()) {
+            throw new IllegalArgumentException("At least one weight must be positive: " + weights);
+        }
+        this.cumulative = Arrays.copyOf(sums, items.size());
+        this.total = sum;
+    }
+
+    public T next(Random random) {
+        long point = (long) (random.nextDouble() * total);
+        int index = Arrays.binarySearch(cumulative, point + 1);
+        return items.get(index >= 0 ? index : -index - 1);
+    }
+}
@@ -0,0 +1,77 @@
+package com.api.workload;
+
+import com.api.config.Config;
+import com.api.models.Book;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import lombok.Value;
+
+import java.util.function.Supplier;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Lean counterpart of {@link com.api.utils.ApiUtils} for load generation.
+ * Uses the same base URI, endpoint and credentials, but skips Allure steps and
+ * attachments and times only the HTTP exchange itself.
+ */
+public class WorkloadClient {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String USERNAME = Config.getUsername();
+    private static final String PASSWORD = Config.getPassword();
+
+    @Value
+    public static class TimedResponse {
+        Response response;
+        long latencyNanos;
+    }
+
+    public TimedResponse getAllBooks() {
+        RequestSpecification request = request();
+        return timed(() -> request.get(Config.getBooksEndpoint()));
+    }
+
+    public TimedResponse getBookById(int bookId) {
+        RequestSpecification request = request().pathParam("id", bookId);
+        return timed(() -> request.get(Config.getBooksEndpoint() + "/{id}"));
+    }
+
+    public TimedResponse createBook(Book book) {
+        RequestSpecification request = request().body(toJson(book));
+        return timed(() -> request.post(Config.getBooksEndpoint()));
+    }
+
+    public TimedResponse updateBook(int bookId, Book book) {
+        book.setId(bookId);
+        RequestSpecification request = request().pathParam("id", bookId).body(toJson(book));
+        return timed(() -> request.put(Config.getBooksEndpoint() + "/{id}"));
+    }
+
+    public TimedResponse deleteBook(int bookId) {
+        RequestSpecification request = request().pathParam("id", bookId);
+        return timed(() -> request.delete(Config.getBooksEndpoint() + "/{id}"));
+    }
+
+    private RequestSpecification request() {
+        return given()
+                .auth().preemptive().basic(USERNAME, PASSWORD)
+                .contentType("application/json");
+    }
+
+    private TimedResponse timed(Supplier<Response> exchange) {
+        long start = System.nanoTime();
+        Response response = exchange.get();
+        return new TimedResponse(response, System.nanoTime() - start);
+    }
+
+    private static String toJson(Book book) {
+        try {
+            return objectMapper.writeValueAsString(book);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize book object", e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.api.workload;
+
+import com.api.config.WorkloadConfig;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Data
+@Builder
+public class WorkloadScenario {
+
+    private int threads;
+    private int operationsPerThread;
+    private Long seed;
+    private Map<Operation, Integer> operationWeights;
+    private String idDistribution;
+    private double zipfExponent;
+    private int hotSetSize;
+    private int thinkTimeMinMs;
+    private int thinkTimeMaxMs;
+    private Map<PayloadSize, Integer> payloadWeights;
+    private double maxErrorRate;
+
+    public static WorkloadScenario fromConfig() {
+        Map<Operation, Integer> operationWeights = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            operationWeights.put(operation, WorkloadConfig.getOperationWeight(operation.getKey()));
+        }
+        Map<PayloadSize, Integer> payloadWeights = new EnumMap<>(PayloadSize.class);
+        for (PayloadSize size : PayloadSize.values()) {
+            payloadWeights.put(size, WorkloadConfig.getPayloadWeight(size.getKey()));
+        }
+
+        return WorkloadScenario.builder()
+                .threads(WorkloadConfig.getThreads())
+                .operationsPerThread(WorkloadConfig.getOperationsPerThread())
+                .seed(WorkloadConfig.getSeed())
+                .operationWeights(operationWeights)
+                .idDistribution(WorkloadConfig.getIdDistribution())
+                .zipfExponent(WorkloadConfig.getZipfExponent())
+                .hotSetSize(WorkloadConfig.getHotSetSize())
+                .thinkTimeMinMs(WorkloadConfig.getThinkTimeMinMs())
+                .thinkTimeMaxMs(WorkloadConfig.getThinkTimeMaxMs())
+                .payloadWeights(payloadWeights)
+                .maxErrorRate(WorkloadConfig.getMaxErrorRate())
+                .build();
+    }
+
+    /**
+     * Fails fast on settings the runner cannot execute, naming the offending workload.properties key.
+     */
+    public void validate() {
+        require(threads > 0, "workload.threads must be positive, got " + threads);
+        require(operationsPerThread > 0, "workload.operations.per.thread must be positive, got " + operationsPerThread);
+        require("zipf".equalsIgnoreCase(idDistribution) || "uniform".equalsIgnoreCase(idDistribution),
+                "workload.ids.distribution must be 'zipf' or 'uniform', got '" + idDistribution + "'");
+        require(!"zipf".equalsIgnoreCase(idDistribution) || zipfExponent > 0,
+                "workload.ids.zipf.exponent must be positive, got " + zipfExponent);
+        require(hotSetSize >= 0, "workload.ids.hot.set.size must not be negative, got " + hotSetSize);
+        require(thinkTimeMinMs >= 0, "workload.think.time.min.ms must not be negative, got " + thinkTimeMinMs);
+        require(maxErrorRate >= 0 && maxErrorRate <= 1,
+                "workload.max.error.rate must be between 0 and 1, got " + maxErrorRate);
+        require(thinkTimeMaxMs >= thinkTimeMinMs, "workload.think.time.max.ms must not be below workload.think.time.min.ms, got "
+                + thinkTimeMaxMs + " < " + thinkTimeMinMs);
+
+        require(operationWeights != null, "Operation weights are not set");
+        for (Operation operation : Operation.values()) {
+            int weight = operationWeights.getOrDefault(operation, 0);
+            require(weight >= 0, "workload.weight." + operation.getKey() + " must not be negative, got " + weight);
+        }
+        require(operationWeights.values().stream().anyMatch(weight -> weight > 0),
+                "At least one workload.weight.* must be positive");
+
+        require(payloadWeights != null, "Payload weights are not set");
+        for (PayloadSize size : PayloadSize.values()) {
+            int weight = payloadWeights.getOrDefault(size, 0);
+            require(weight >= 0, "workload.payload.weight." + size.getKey() + " must not be negative, got " + weight);
+        }
+        require(payloadWeights.values().stream().anyMatch(weight -> weight > 0),
+                "At least one workload.payload.weight.* must be positive");
+    }
+
+    private static void require(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.api.tests;
+
+import com.api.tests.base.BaseTest;
+import com.api.workload.IdSampler;
+import com.api.workload.Operation;
+import com.api.workload.PayloadSize;
+import com.api.workload.ScenarioResult;
+import com.api.workload.WeightedPicker;
+import com.api.workload.WorkloadScenario;
+import io.qameta.allure.*;
+import org.testng.annotations.Test;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.testng.Assert.*;
+
+@Epic("Books API Testing")
+@Feature("Mixed Workload")
+public class WorkloadModelTest extends BaseTest {
+
+    private static final int DRAWS = 100_000;
+    private static final double TOLERANCE = 0.01;
+
+    // ---------- Weighted Picker ----------
+    @Test
+    @Story("Workload Model")
+    @Description("Operation mix follows the configured weights")
+    @Severity(SeverityLevel.NORMAL)
+    public void testOperationMixMatchesWeights() {
+        Map<Operation, Integer> weights = operationWeights(90, 5, 2, 2, 1);
+        WeightedPicker<Operation> picker = new WeightedPicker<>(weights);
+        Map<Operation, Integer> picks = draw(picker::next);
+
+        for (Operation operation : Operation.values()) {
+            double expected = weights.get(operation) / 100.0;
+            double actual = picks.getOrDefault(operation, 0) / (double) DRAWS;
+            assertEquals(actual, expected, TOLERANCE, "Share mismatch for " + operation);
+        }
+    }
+
+    @Test
+    @Story("Workload Model")
+    @Description("Operations with zero weight are never picked")
+    @Severity(SeverityLevel.NORMAL)
+    public void testZeroWeightNeverPicked() {
+        WeightedPicker<Operation> picker = new WeightedPicker<>(operationWeights(0, 3, 0, 1, 0));
+        Map<Operation, Integer> picks = draw(picker::next);
+
+        assertEquals(picks.keySet(), Set.of(Operation.GET_ALL, Operation.UPDATE), "Unexpected operations picked");
+    }
+
+    @Test
+    @Story("Workload Model")
+    @Description("All-zero weights are rejected")
+    @Severity(SeverityLevel.MINOR)
+    public void testAllZeroWeightsRejected() {
+        expectThrows(IllegalArgumentException.class, () -> new WeightedPicker<>(operationWeights(0, 0, 0, 0, 0)));
+    }
+
+    // ---------- Id Sampler ----------
+    @Test
+    @Story("Workload Model")
+    @Description("Zipf rank 1 receives 1/H(n,s) of the draws")
+    @Severity(SeverityLevel.NORMAL)
+    public void testZipfRankOneShare() {
+        List<Integer> ids = IntStream.rangeClosed(1, 100).boxed().collect(Collectors.toList());
+        double exponent = 1.1;
+        double harmonic = IntStream.rangeClosed(1, 100).mapToDouble(rank -> 1.0 / Math.pow(rank, exponent)).sum();
+        IdSampler sampler = IdSampler.zipf(ids, exponent);
+
+        Map<Integer, Integer> picks = draw(sampler::next);
+        assertEquals(sampler.getTopShare(1), 1.0 / harmonic, 1e-9, "Expected rank 1 share mismatch");
+        assertEquals(picks.get(1) / (double) DRAWS, 1.0 / harmonic, TOLERANCE, "Rank 1 share mismatch");
+        assertTrue(picks.get(1) > picks.get(2) && picks.get(2) > picks.get(10), "Popularity should decrease with rank");
+    }
+
+    @Test
+    @Story("Workload Model")
+    @Description("Uniform distribution spreads draws evenly")
+    @Severity(SeverityLevel.NORMAL)
+    public void testUniformSpreadsEvenly() {
+        List<Integer> ids = IntStream.rangeClosed(1, 10).boxed().collect(Collectors.toList());
+        IdSampler sampler = IdSampler.uniform(ids);
+
+        Map<Integer, Integer> picks = draw(sampler::next);
+        assertEquals(picks.keySet(), Set.copyOf(ids), "Every id should be picked");
+        for (Integer id : ids) {
+            assertEquals(picks.get(id) / (double) DRAWS, 0.1, TOLERANCE, "Share mismatch for id " + id);
+        }
+        assertEquals(sampler.getTopShare(3), 0.3, 1e-9, "Expected top share mismatch");
+    }
+
+    @Test
+    @Story("Workload Model")
+    @Description("Skewed reads concentrate on the top ids, uniform reads do not")
+    @Severity(SeverityLevel.NORMAL)
+    public void testTopIdShareZipfVersusUniform() {
+        List<Integer> ids = IntStream.rangeClosed(1, 100).boxed().collect(Collectors.toList());
+        double zipfShare = topIdShare(IdSampler.zipf(ids, 1.1));
+        double uniformShare = topIdShare(IdSampler.uniform(ids));
+
+        assertEquals(zipfShare, IdSampler.zipf(ids, 1.1).getTopShare(10), TOLERANCE, "Zipf top-10 share mismatch");
+        assertEquals(uniformShare, 0.1, TOLERANCE, "Uniform top-10 share mismatch");
+    }
+
+    // ---------- Scenario Result ----------
+    @Test
+    @Story("Workload Model")
+    @Description("Latency percentiles use the nearest-rank method")
+    @Severity(SeverityLevel.NORMAL)
+    public void testLatencyPercentileBoundaries() {
+        ScenarioResult result = new ScenarioResult();
+        assertEquals(result.getLatencyPercentile(Operation.GET_BY_ID, 50), 0L, "Empty percentile should be 0");
+
+        for (long latency = 100; latency >= 1; latency--) {
+            result.record(Operation.GET_BY_ID, 200, latency);
+        }
+        assertEquals(result.getLatencyPercentile(Operation.GET_BY_ID, 0), 1L);
+        assertEquals(result.getLatencyPercentile(Operation.GET_BY_ID, 1), 1L);
+        assertEquals(result.getLatencyPercentile(Operation.GET_BY_ID, 50), 50L);
+        assertEquals(result.getLatencyPercentile(Operation.GET_BY_ID, 95), 95L);
+        assertEquals(result.getLatencyPercentile(Operation.GET_BY_ID, 99), 99L);
+        assertEquals(result.getLatencyPercentile(Operation.GET_BY_ID, 100), 100L);
+
+        result.record(Operation.GET_ALL, 200, 7);
+        assertEquals(result.getLatencyPercentile(Operation.GET_ALL, 99), 7L, "Single sample percentile mismatch");
+    }
+
+    @Test
+    @Story("Workload Model")
+    @Description("Non-2xx responses count as failures")
+    @Severity(SeverityLevel.MINOR)
+    public void testErrorRate() {
+        ScenarioResult result = new ScenarioResult();
+        result.record(Operation.GET_BY_ID, 200, 1);
+        result.record(Operation.CREATE, 201, 1);
+        result.record(Operation.GET_BY_ID, 404, 1);
+        result.record(Operation.UPDATE, 500, 1);
+
+        assertEquals(result.getTotal(), 4L);
+        assertEquals(result.getFailures(), 2L);
+        assertEquals(result.getErrorRate(), 0.5, 1e-9);
+    }
+
+    // ---------- Validation ----------
+    @Test
+    @Story("Workload Model")
+    @Description("Invalid scenario settings are rejected with the offending key")
+    @Severity(SeverityLevel.NORMAL)
+    public void testInvalidScenarioNamesKey() {
+        assertInvalid(validScenario().threads(0), "workload.threads");
+        assertInvalid(validScenario().operationsPerThread(-1), "workload.operations.per.thread");
+        assertInvalid(validScenario().idDistribution("pareto"), "workload.ids.distribution");
+        assertInvalid(validScenario().zipfExponent(0), "workload.ids.zipf.exponent");
+        assertInvalid(validScenario().thinkTimeMinMs(-5), "workload.think.time.min.ms");
+        assertInvalid(validScenario().maxErrorRate(-1), "workload.max.error.rate");
+        assertInvalid(validScenario().maxErrorRate(5), "workload.max.error.rate");
+        assertInvalid(validScenario().thinkTimeMinMs(10).thinkTimeMaxMs(5), "workload.think.time.max.ms");
+        assertInvalid(validScenario().operationWeights(operationWeights(90, -1, 0, 0, 0)), "workload.weight.get.all");
+        assertInvalid(validScenario().operationWeights(operationWeights(0, 0, 0, 0, 0)), "workload.weight.*");
+
+        validScenario().build().validate();
+    }
+
+    @Test
+    @Story("Workload Model")
+    @Description("Non-numeric settings are rejected with the offending key")
+    @Severity(SeverityLevel.MINOR)
+    public void testNonNumericSettingNamesKey() {
+        System.setProperty("workload.threads", "many");
+        try {
+            IllegalArgumentException e = expectThrows(IllegalArgumentException.class, WorkloadScenario::fromConfig);
+            assertTrue(e.getMessage().contains("workload.threads"), "Message should name the key: " + e.getMessage());
+        } finally {
+            System.clearProperty("workload.threads");
+        }
+    }
+
+    // ---------- Utilities ----------
+    private WorkloadScenario.WorkloadScenarioBuilder validScenario() {
+        Map<PayloadSize, Integer> payloadWeights = new EnumMap<>(PayloadSize.class);
+        payloadWeights.put(PayloadSize.SMALL, 1);
+        return WorkloadScenario.builder()
+                .threads(1)
+                .operationsPerThread(1)
+                .operationWeights(operationWeights(1, 0, 0, 0, 0))
+                .idDistribution("zipf")
+                .zipfExponent(1.0)
+                .payloadWeights(payloadWeights);
+    }
+
+    private void assertInvalid(WorkloadScenario.WorkloadScenarioBuilder builder, String key) {
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> builder.build().validate());
+        assertTrue(e.getMessage().contains(key), "Message should name '" + key + "': " + e.getMessage());
+    }
+
+    private Map<Operation, Integer> operationWeights(int getById, int getAll, int create, int update, int delete) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        weights.put(Operation.GET_BY_ID, getById);
+        weights.put(Operation.GET_ALL, getAll);
+        weights.put(Operation.CREATE, create);
+        weights.put(Operation.UPDATE, update);
+        weights.put(Operation.DELETE, delete);
+        return weights;
+    }
+
+    private double topIdShare(IdSampler sampler) {
+        ScenarioResult result = new ScenarioResult();
+        Random random = new Random(42);
+        for (int i = 0; i < DRAWS; i++) {
+            result.recordIdHit(sampler.next(random));
+        }
+        return result.getTopIdShare(10);
+    }
+
+    private <T> Map<T, Integer> draw(Function<Random, T> sampler) {
+        Random random = new Random(42);
+        Map<T, Integer> picks = new HashMap<>();
+        for (int i = 0; i < DRAWS; i++) {
+            picks.merge(sampler.apply(random), 1, Integer::sum);
+        }
+        return picks;
+    }
+}
@@ -0,0 +1,81 @@
+package com.api.tests;
+
+import com.api.config.Config;
+import com.api.tests.base.BaseTest;
+import com.api.utils.AllureUtil;
+import com.api.workload.Operation;
+import com.api.workload.ScenarioResult;
+import com.api.workload.ScenarioRunner;
+import com.api.workload.WorkloadScenario;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.qameta.allure.*;
+import io.restassured.RestAssured;
+import lombok.extern.slf4j.Slf4j;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+@Slf4j
+@Epic("Books API Testing")
+@Feature("Mixed Workload")
+public class WorkloadScenarioTest extends BaseTest {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final double MIX_TOLERANCE = 0.15;
+
+    @BeforeClass
+    @Step("Setup test environment")
+    public void setUp() {
+        RestAssured.baseURI = Config.getBaseUrl();
+        log.info("Base URL set to: {}", RestAssured.baseURI);
+    }
+
+    @AfterClass
+    @Step("Cleanup test environment")
+    public void tearDown() {
+        RestAssured.reset();
+        log.info("RestAssured reset");
+    }
+
+    @Test
+    @TmsLink("CSP-0011")
+    @Story("Capacity Testing")
+    @Description("Run the weighted mixed workload from workload.properties")
+    @Severity(SeverityLevel.NORMAL)
+    public void testMixedWorkload() {
+        WorkloadScenario scenario = WorkloadScenario.fromConfig();
+        ScenarioRunner runner = new ScenarioRunner(scenario);
+        ScenarioResult result = runner.run();
+        attachSummary(result);
+
+        long scheduled = (long) scenario.getThreads() * scenario.getOperationsPerThread();
+        assertEquals(result.getTotal() + result.getSkipped(), scheduled, "Not all scheduled operations were executed");
+        assertTrue(result.getErrorRate() <= scenario.getMaxErrorRate(),
+                "Error rate " + result.getErrorRate() + " exceeds " + scenario.getMaxErrorRate());
+
+        int totalWeight = scenario.getOperationWeights().values().stream().mapToInt(Integer::intValue).sum();
+        double expectedReadShare = scenario.getOperationWeights().get(Operation.GET_BY_ID) / (double) totalWeight;
+        double readShare = result.getCount(Operation.GET_BY_ID) / (double) scheduled;
+        assertEquals(readShare, expectedReadShare, MIX_TOLERANCE, "Read-by-id share does not follow the configured weights");
+
+        if (result.getCount(Operation.GET_BY_ID) > 0) {
+            double expectedTopShare = runner.getExpectedTopIdShare(10);
+            assertTrue(result.getTopIdShare(10) >= expectedTopShare - MIX_TOLERANCE,
+                    "Top-10 id share " + result.getTopIdShare(10) + " is below the expected "
+                            + expectedTopShare + " for the " + scenario.getIdDistribution() + " distribution");
+        }
+    }
+
+    @Step("Attach workload summary")
+    private void attachSummary(ScenarioResult result) {
+        try {
+            AllureUtil.attachJson("Workload Summary",
+                    objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(result.summary()));
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to attach workload summary: {}", e.getMessage());
+        }
+    }
+}